@@ -2,12 +2,19 @@ package com.controller;
 
 import com.dto.BoardRequestDto;
 import com.dto.BoardResponseDto;
+import com.dto.CoalescingStatsDto;
+import com.dto.ConcurrencyLimitStatsDto;
+import com.event.BoardEventStream;
+import com.limiter.BoardConcurrencyLimits;
+import com.service.BoardReadCoalescer;
 import com.service.BoardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,6 +24,9 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardReadCoalescer boardReadCoalescer;
+    private final BoardConcurrencyLimits boardConcurrencyLimits;
+    private final BoardEventStream boardEventStream;
 
     // 게시글 생성
     @PostMapping
@@ -28,7 +38,7 @@ public class BoardController {
     // 게시글 단건 조회
     @GetMapping("/{id}")
     public ResponseEntity<BoardResponseDto> getBoard(@PathVariable Long id) {
-        BoardResponseDto responseDto = boardService.findById(id);
+        BoardResponseDto responseDto = boardReadCoalescer.findById(id);
         return ResponseEntity.ok(responseDto);
     }
 
@@ -37,14 +47,15 @@ public class BoardController {
     public ResponseEntity<Page<BoardResponseDto>> getAllBoards(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Page<BoardResponseDto> boards = boardService.findAll(page, size);
+        Page<BoardResponseDto> boards = boardReadCoalescer.findAll(page, size);
         return ResponseEntity.ok(boards);
     }
 
     // 전체 게시글 조회 (리스트)
     @GetMapping("/list")
-    public ResponseEntity<List<BoardResponseDto>> getAllBoardsList() {
-        List<BoardResponseDto> boards = boardService.findAll();
+    public ResponseEntity<List<BoardResponseDto>> getAllBoardsList(
+            @RequestParam(defaultValue = "false") boolean includeArchive) {
+        List<BoardResponseDto> boards = boardService.findAll(includeArchive);
         return ResponseEntity.ok(boards);
     }
 
@@ -66,32 +77,58 @@ public class BoardController {
 
     // 제목으로 검색
     @GetMapping("/search/title")
-    public ResponseEntity<List<BoardResponseDto>> searchByTitle(@RequestParam String title) {
-        List<BoardResponseDto> boards = boardService.findByTitle(title);
+    public ResponseEntity<List<BoardResponseDto>> searchByTitle(
+            @RequestParam String title,
+            @RequestParam(defaultValue = "false") boolean includeArchive) {
+        List<BoardResponseDto> boards = boardService.findByTitle(title, includeArchive);
         return ResponseEntity.ok(boards);
     }
 
     // 작성자로 검색
     @GetMapping("/search/author")
-    public ResponseEntity<List<BoardResponseDto>> searchByAuthor(@RequestParam String author) {
-        List<BoardResponseDto> boards = boardService.findByAuthor(author);
+    public ResponseEntity<List<BoardResponseDto>> searchByAuthor(
+            @RequestParam String author,
+            @RequestParam(defaultValue = "false") boolean includeArchive) {
+        List<BoardResponseDto> boards = boardService.findByAuthor(author, includeArchive);
         return ResponseEntity.ok(boards);
     }
 
     // 키워드로 검색 (제목 또는 내용)
     @GetMapping("/search")
-    public ResponseEntity<List<BoardResponseDto>> searchByKeyword(@RequestParam String keyword) {
-        List<BoardResponseDto> boards = boardService.searchByKeyword(keyword);
+    public ResponseEntity<List<BoardResponseDto>> searchByKeyword(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "false") boolean includeArchive) {
+        List<BoardResponseDto> boards = boardService.searchByKeyword(keyword, includeArchive);
         return ResponseEntity.ok(boards);
     }
 
     // 최신 게시글 10개 조회
     @GetMapping("/latest")
     public ResponseEntity<List<BoardResponseDto>> getLatestBoards() {
-        List<BoardResponseDto> boards = boardService.findLatest();
+        List<BoardResponseDto> boards = boardReadCoalescer.findLatest();
         return ResponseEntity.ok(boards);
     }
 
+    // 게시글 변경 이벤트 구독 (SSE)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBoards(
+            @RequestParam(required = false) List<String> author,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return ResponseEntity.ok(boardEventStream.subscribe(author, lastEventId));
+    }
+
+    // 동일 조회 요청 합치기 통계
+    @GetMapping("/stats/coalescing")
+    public ResponseEntity<CoalescingStatsDto> getCoalescingStats() {
+        return ResponseEntity.ok(boardReadCoalescer.getStats());
+    }
+
+    // 요청 종류별 동시 처리 한도 통계
+    @GetMapping("/stats/limits")
+    public ResponseEntity<List<ConcurrencyLimitStatsDto>> getConcurrencyLimitStats() {
+        return ResponseEntity.ok(boardConcurrencyLimits.getStats());
+    }
+
     // 성능 테스트용: 대량 데이터 생성
     @PostMapping("/bulk")
     public ResponseEntity<String> createBulkBoards(@RequestParam(defaultValue = "1000") int count) {
@@ -0,0 +1,28 @@
+package com.dto;
+
+import com.event.BoardChangedEvent;
+import com.event.BoardEventType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BoardEventDto {
+    // 스트림 안에서 증가하는 이벤트 번호 (SSE id, Last-Event-ID 로 이어받기)
+    private final long eventId;
+    private final BoardEventType type;
+    private final Long boardId;
+    private final String author;
+    // 삭제 이벤트는 null
+    private final BoardResponseDto board;
+    private final LocalDateTime occurredAt;
+
+    public BoardEventDto(long eventId, BoardChangedEvent event) {
+        this.eventId = eventId;
+        this.type = event.getType();
+        this.boardId = event.getBoardId();
+        this.author = event.getAuthor();
+        this.board = event.getBoard();
+        this.occurredAt = LocalDateTime.now();
+    }
+}
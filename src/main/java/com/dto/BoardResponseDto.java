@@ -1,5 +1,6 @@
 package com.dto;
 
+import com.entity.ArchivedBoard;
 import com.entity.Board;
 import lombok.Getter;
 
@@ -22,4 +23,13 @@ public class BoardResponseDto {
         this.createdAt = board.getCreatedAt();
         this.updatedAt = board.getUpdatedAt();
     }
+
+    public BoardResponseDto(ArchivedBoard board) {
+        this.id = board.getId();
+        this.title = board.getTitle();
+        this.content = board.getContent();
+        this.author = board.getAuthor();
+        this.createdAt = board.getCreatedAt();
+        this.updatedAt = board.getUpdatedAt();
+    }
 }
@@ -0,0 +1,19 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CoalescingStatsDto {
+    // DB 조회를 실제로 수행한 요청 수
+    private final long leaderCalls;
+    // 다른 요청의 조회 결과를 공유한 요청 수
+    private final long coalescedCalls;
+    // 대기 시간 초과로 503 응답한 요청 수
+    private final long timedOutWaits;
+    // 예외로 끝난 조회 수 (대기 중이던 요청에도 같은 예외가 전달됨)
+    private final long failedCalls;
+    // 현재 진행 중인 조회 키 수
+    private final int inFlight;
+}
@@ -0,0 +1,20 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ConcurrencyLimitStatsDto {
+    // read / write / search
+    private final String name;
+    // 현재 동시 처리 한도
+    private final int limit;
+    // 처리 중인 요청 수
+    private final int inFlight;
+    private final long accepted;
+    // 한도 초과로 503 응답한 요청 수
+    private final long rejected;
+    // 부하가 없을 때의 응답 시간 추정치
+    private final double rttNoLoadMs;
+}
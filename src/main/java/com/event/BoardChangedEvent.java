@@ -0,0 +1,22 @@
+package com.event;
+
+import com.dto.BoardResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// BoardService 가 게시글 생성/수정/삭제 시 발행하는 이벤트 (커밋 후 BoardEventStream 으로 전달)
+@Getter
+@AllArgsConstructor
+public class BoardChangedEvent {
+    private final BoardEventType type;
+    private final Long boardId;
+    private final String author;
+    // 삭제 이벤트는 null
+    private final BoardResponseDto board;
+    // 보관 테이블(boards_archive)의 게시글이 변경된 경우
+    private final boolean archived;
+
+    public BoardChangedEvent(BoardEventType type, Long boardId, String author, BoardResponseDto board) {
+        this(type, boardId, author, board, false);
+    }
+}
@@ -0,0 +1,313 @@
+package com.event;
+
+import com.dto.BoardEventDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 게시글 변경 이벤트를 SSE 구독자에게 전달하는 프로세스 내 스트림
+// - 커밋된 변경만 전달한다 (AFTER_COMMIT)
+// - 최근 이벤트를 historySize 개까지 보관해 Last-Event-ID 로 이어받을 수 있다
+// - 구독자마다 bufferSize 개까지만 쌓고, 넘치면 느린 구독자로 보고 연결을 끊는다 (재연결 시 이어받기)
+// - 구독자별 스레드는 없고, 보낼 이벤트가 있을 때만 dispatchThreads 개로 제한된 전송 스레드를 빌려 쓴다
+//   전송 스레드와 대기열(dispatchQueueSize)이 모두 차면 그 구독자도 느린 구독자로 보고 끊는다
+// - 한 번의 전송이 sendTimeoutMs 를 넘기면 watchdog 이 전송 스레드를 깨우고 그 구독자를 끊는다
+// - 구독자에게 나눠 주는 일은 전용 스레드 하나가 번호 순서대로 하므로, 글을 쓴 요청은 구독자 수와 관계없이 바로 끝난다
+@Component
+public class BoardEventStream {
+
+    private final int bufferSize;
+    private final int historySize;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+    private final ExecutorService fanOut;
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService watchdog;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 지금 send 중인 구독자 (끊긴 뒤에도 전송 스레드가 풀려날 때까지 watchdog 이 확인한다)
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+    // history, lastEventId, 구독 등록과 fanOut 에 넘기는 순서는 this 로 동기화
+    private final Deque<BoardEventDto> history = new ArrayDeque<>();
+    private long lastEventId;
+
+    public BoardEventStream(@Value("${board.stream.buffer-size:64}") int bufferSize,
+                            @Value("${board.stream.history-size:1000}") int historySize,
+                            @Value("${board.stream.timeout-ms:1800000}") long timeoutMs,
+                            @Value("${board.stream.send-timeout-ms:5000}") long sendTimeoutMs,
+                            @Value("${board.stream.dispatch-threads:16}") int dispatchThreads,
+                            @Value("${board.stream.dispatch-queue-size:4096}") int dispatchQueueSize) {
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.fanOut = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "board-event-stream-fan-out"));
+        // 쉬는 동안에는 스레드를 남기지 않는다
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(dispatchQueueSize), runnable -> daemon(runnable, "board-event-stream"));
+        this.dispatcher.allowCoreThreadTimeOut(true);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(
+                runnable -> daemon(runnable, "board-event-stream-watchdog"));
+        long checkIntervalMs = Math.max(10, sendTimeoutMs / 2);
+        watchdog.scheduleWithFixedDelay(this::evictStuckSenders, checkIntervalMs, checkIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        // 번호 발급과 fanOut 에 넘기는 순서가 같아야 구독자에게 번호 순서대로 들어간다 (넘기기만 하므로 잠금은 바로 풀린다)
+        synchronized (this) {
+            BoardEventDto dto = new BoardEventDto(++lastEventId, event);
+            history.addLast(dto);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            fanOut.execute(() -> deliver(dto));
+        }
+    }
+
+    // authors 가 비어 있으면 전체 구독, lastEventId 가 있으면 그 다음 이벤트부터 다시 보낸다
+    public SseEmitter subscribe(Collection<String> authors, Long lastEventId) {
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, authors == null ? Set.of() : Set.copyOf(authors));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        // 재전송 목록 수집, 구독 등록을 발행과 같은 잠금 안에서 해야 그 사이에 발행된 이벤트를 놓치거나 순서가 바뀌지 않는다
+        // (fanOut 이 아직 나눠 주지 않은 이벤트는 재전송으로 이미 넣었으므로 offer 에서 걸러진다)
+        synchronized (this) {
+            List<BoardEventDto> replay = lastEventId == null ? null : replayAfter(lastEventId, subscriber);
+            // 버퍼보다 많이 밀렸으면 재전송하자마자 끊기므로 이어받지 않는다
+            if (replay != null && replay.size() <= bufferSize) {
+                replay.forEach(subscriber::offer);
+            } else {
+                if (lastEventId != null) {
+                    // 이어받을 수 없으면 클라이언트가 목록을 새로 조회하도록 알린다
+                    try {
+                        emitter.send(SseEmitter.event().name("reset").data(""));
+                    } catch (IOException e) {
+                        emitter.completeWithError(e);
+                        return emitter;
+                    }
+                }
+            }
+            subscriber.skipUntil(this.lastEventId);
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdownNow();
+        watchdog.shutdownNow();
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    protected SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void deliver(BoardEventDto event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void evictStuckSenders() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            subscriber.evictIfStuck(now);
+        }
+    }
+
+    // eventId 다음부터 구독자에게 보낼 이벤트, 보관 범위를 벗어났으면 null
+    private List<BoardEventDto> replayAfter(long eventId, Subscriber subscriber) {
+        if (eventId > lastEventId) {
+            // 서버 재시작 등으로 번호가 초기화된 경우
+            return null;
+        }
+        if (eventId < lastEventId && (history.isEmpty() || history.peekFirst().getEventId() > eventId + 1)) {
+            return null;
+        }
+        List<BoardEventDto> replay = new ArrayList<>();
+        for (BoardEventDto event : history) {
+            if (event.getEventId() > eventId && subscriber.accepts(event)) {
+                replay.add(event);
+            }
+        }
+        return replay;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<String> authors;
+        // 용량이 아닌 실제로 쌓인 만큼만 메모리를 쓰도록 LinkedBlockingQueue 사용
+        private final BlockingQueue<BoardEventDto> buffer;
+        // 전송 작업이 예약/실행 중인지 여부, 끊긴 뒤에는 emitter 를 닫을 권한으로도 쓴다
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 재전송과 실시간 전달이 겹쳐도 같은 이벤트를 두 번 보내지 않도록 마지막으로 넣은 번호를 기억
+        private long lastQueuedEventId;
+        private volatile boolean closed;
+        // 전송 중인 스레드와 시작 시각 (this 로 동기화, watchdog 이 확인)
+        private Thread sendingThread;
+        private long sendStartedNanos;
+
+        private Subscriber(SseEmitter emitter, Set<String> authors) {
+            this.emitter = emitter;
+            this.authors = authors;
+            this.buffer = new LinkedBlockingQueue<>(bufferSize);
+        }
+
+        private boolean accepts(BoardEventDto event) {
+            return authors.isEmpty() || authors.contains(event.getAuthor());
+        }
+
+        private void offer(BoardEventDto event) {
+            if (!accepts(event)) {
+                return;
+            }
+            boolean overflowed;
+            synchronized (this) {
+                if (closed || event.getEventId() <= lastQueuedEventId) {
+                    return;
+                }
+                overflowed = !buffer.offer(event);
+                if (!overflowed) {
+                    lastQueuedEventId = event.getEventId();
+                }
+            }
+            if (overflowed) {
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private synchronized void skipUntil(long eventId) {
+            lastQueuedEventId = Math.max(lastQueuedEventId, eventId);
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 전송 스레드와 대기열이 모두 찼다: 스레드를 늘리지 않고 느린 구독자로 보고 끊는다 (재연결 시 이어받기)
+                draining.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                BoardEventDto event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊겼거나, 이미 완료되었거나, watchdog 이 끊은 경우
+                markClosed();
+            } finally {
+                draining.set(false);
+            }
+            if (closed) {
+                // 전송 중에 끊긴 경우 전송 스레드가 풀려난 지금 닫는다
+                completeIfIdle();
+            } else if (!buffer.isEmpty()) {
+                // drain 종료 직전에 들어온 이벤트가 남아 있으면 다시 예약
+                schedule();
+            }
+        }
+
+        private void send(BoardEventDto event) throws IOException {
+            synchronized (this) {
+                sendingThread = Thread.currentThread();
+                sendStartedNanos = System.nanoTime();
+            }
+            sending.add(this);
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getEventId()))
+                        .name(event.getType().name())
+                        .data(event));
+            } finally {
+                sending.remove(this);
+                synchronized (this) {
+                    sendingThread = null;
+                    // 막힌 전송 중에 들어온 인터럽트가 다음 작업으로 새지 않도록 정리
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        // 전송 하나가 sendTimeout 을 넘기면 구독자를 끊고 막힌 스레드를 깨운다 (이미 끊긴 구독자도 스레드가 풀려날 때까지)
+        private synchronized void evictIfStuck(long now) {
+            if (sendingThread == null || now - sendStartedNanos < sendTimeoutNanos) {
+                return;
+            }
+            sendingThread.interrupt();
+            markClosed();
+        }
+
+        // 느린 구독자: 버퍼를 비우고 연결을 끊는다. 클라이언트는 Last-Event-ID 로 재연결해 이어받는다
+        private void close() {
+            markClosed();
+            completeIfIdle();
+        }
+
+        private void markClosed() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+        }
+
+        // emitter.complete() 는 막힌 send 가 끝날 때까지 기다리므로, 전송 중이면 여기서 닫지 않고 전송 스레드가 끝나면서 닫는다
+        // (draining 을 먼저 차지한 쪽이 한 번만 닫고, 이후로는 전송 작업도 예약되지 않는다)
+        private void completeIfIdle() {
+            if (draining.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.event;
+
+public enum BoardEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,116 @@
+package com.limiter;
+
+import com.dto.ConcurrencyLimitStatsDto;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 측정된 응답 시간으로 동시 처리 한도를 조절하는 limiter (TCP Vegas 방식)
+// - 부하가 없을 때의 최소 응답 시간(rttNoLoad)과 현재 응답 시간을 비교해 대기열 길이를 추정하고
+//   대기열이 짧으면 한도를 늘리고, 길면 줄인다.
+// - 응답 시간이 목표치를 넘으면 대기열 추정과 관계없이 한도를 비율로 줄인다.
+// - 한도를 넘는 요청은 기다리지 않고 바로 거절한다.
+public class AdaptiveConcurrencyLimiter {
+
+    // 이 횟수만큼 샘플이 쌓이면 rttNoLoad 를 다시 측정 (부하 특성 변화 반영)
+    private static final int PROBE_INTERVAL = 1_000;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile int limit;
+    // onSample 안에서만 변경 (synchronized)
+    private long rttNoLoadNanos;
+    private int samplesSinceProbe;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("잘못된 한도 설정입니다. min: " + minLimit + ", max: " + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.limit = clamp(initialLimit);
+    }
+
+    // 한도 안이면 자리를 차지하고 true, 아니면 바로 false
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // tryAcquire 가 true 였던 요청이 끝나면 걸린 시간과 함께 호출
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtCompletion);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public synchronized ConcurrencyLimitStatsDto getStats() {
+        return new ConcurrencyLimitStatsDto(name, limit, inFlight.get(), accepted.get(), rejected.get(),
+                rttNoLoadNanos / 1_000_000.0);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (++samplesSinceProbe >= PROBE_INTERVAL) {
+            samplesSinceProbe = 0;
+            rttNoLoadNanos = 0;
+        }
+        if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+            rttNoLoadNanos = rttNanos;
+            return;
+        }
+
+        int current = limit;
+        double newLimit;
+        if (rttNanos > targetLatencyNanos) {
+            newLimit = current * BACKOFF_RATIO;
+        } else if (inFlightAtCompletion * 2 < current) {
+            // 한도의 절반도 쓰지 않고 있으면 늘릴 근거가 없다
+            return;
+        } else {
+            int queueSize = (int) Math.ceil(current * (1 - (double) rttNoLoadNanos / rttNanos));
+            double log = Math.max(1, Math.log10(current));
+            double alpha = 3 * log;
+            double beta = 6 * log;
+            if (queueSize <= log) {
+                newLimit = current + beta;
+            } else if (queueSize < alpha) {
+                newLimit = current + log;
+            } else if (queueSize > beta) {
+                newLimit = current - log;
+            } else {
+                return;
+            }
+        }
+        limit = clamp((int) newLimit);
+    }
+
+    private int clamp(int value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
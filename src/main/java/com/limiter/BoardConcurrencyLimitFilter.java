@@ -0,0 +1,52 @@
+package com.limiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 동시 처리 한도를 넘는 요청은 커넥션 풀 앞에서 기다리게 하지 않고 바로 503 + Retry-After 로 돌려보낸다
+@Component
+public class BoardConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final BoardConcurrencyLimits limits;
+    private final String retryAfterSeconds;
+
+    public BoardConcurrencyLimitFilter(BoardConcurrencyLimits limits,
+                                       @Value("${board.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.limits = limits;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = limits.limiterFor(request);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - startTime);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.limiter;
+
+import com.dto.ConcurrencyLimitStatsDto;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 게시판 API 의 조회 / 쓰기 / 검색 요청별 동시 처리 한도
+// 검색(LIKE 풀스캔)이나 쓰기가 몰려도 단건/목록 조회의 몫은 남도록 한도를 따로 둔다.
+@Component
+public class BoardConcurrencyLimits {
+
+    private static final String BOARD_PATH = "/api/boards";
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter read;
+    private final AdaptiveConcurrencyLimiter write;
+    private final AdaptiveConcurrencyLimiter search;
+
+    public BoardConcurrencyLimits(
+            @Value("${board.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${board.concurrency-limit.target-latency-ms:300}") long targetLatencyMs,
+            @Value("${board.concurrency-limit.read.initial:20}") int readInitial,
+            @Value("${board.concurrency-limit.read.min:5}") int readMin,
+            @Value("${board.concurrency-limit.read.max:100}") int readMax,
+            @Value("${board.concurrency-limit.write.initial:10}") int writeInitial,
+            @Value("${board.concurrency-limit.write.min:2}") int writeMin,
+            @Value("${board.concurrency-limit.write.max:40}") int writeMax,
+            @Value("${board.concurrency-limit.search.initial:5}") int searchInitial,
+            @Value("${board.concurrency-limit.search.min:1}") int searchMin,
+            @Value("${board.concurrency-limit.search.max:20}") int searchMax) {
+        long targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        this.enabled = enabled;
+        this.read = new AdaptiveConcurrencyLimiter("read", readInitial, readMin, readMax, targetLatencyNanos);
+        this.write = new AdaptiveConcurrencyLimiter("write", writeInitial, writeMin, writeMax, targetLatencyNanos);
+        this.search = new AdaptiveConcurrencyLimiter("search", searchInitial, searchMin, searchMax, targetLatencyNanos);
+    }
+
+    // 요청에 해당하는 limiter, 제한 대상이 아니면 null
+    public AdaptiveConcurrencyLimiter limiterFor(HttpServletRequest request) {
+        if (!enabled) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // 통계 조회와 오래 유지되는 이벤트 스트림 연결은 제한하지 않는다
+        if (!path.startsWith(BOARD_PATH) || path.startsWith(BOARD_PATH + "/stats")
+                || path.equals(BOARD_PATH + "/stream")) {
+            return null;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return path.startsWith(BOARD_PATH + "/search") ? search : read;
+        }
+        return write;
+    }
+
+    public List<ConcurrencyLimitStatsDto> getStats() {
+        return List.of(read.getStats(), write.getStats(), search.getStats());
+    }
+}
@@ -0,0 +1,44 @@
+package com.repository;
+
+import com.entity.ArchivedBoard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedBoardRepository extends JpaRepository<ArchivedBoard, Long> {
+
+    // 제목으로 검색
+    List<ArchivedBoard> findByTitleContaining(String title);
+
+    // 작성자로 검색
+    List<ArchivedBoard> findByAuthor(String author);
+
+    // 제목 또는 내용으로 검색
+    @Query("SELECT b FROM ArchivedBoard b WHERE b.title LIKE %:keyword% OR b.content LIKE %:keyword%")
+    List<ArchivedBoard> findByTitleOrContentContaining(@Param("keyword") String keyword);
+
+    // 수정/삭제용 단건 조회 (잠금 읽기는 트랜잭션 스냅샷이 아닌 최신 커밋을 읽으므로 방금 옮겨진 게시글도 찾는다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ArchivedBoard b WHERE b.id = :id")
+    Optional<ArchivedBoard> findByIdForUpdate(@Param("id") Long id);
+
+    // 최신순 offset 조회 (hot 테이블 뒤에 이어지는 깊은 페이지용)
+    @Query(value = "SELECT * FROM boards_archive ORDER BY created_at DESC LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ArchivedBoard> findLatestWithOffset(@Param("offset") long offset, @Param("limit") int limit);
+
+    // boards 의 게시글을 그대로 복사
+    @Modifying
+    @Query(value = "INSERT INTO boards_archive (id, title, content, author, created_at, updated_at) "
+            + "SELECT id, title, content, author, created_at, updated_at FROM boards WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyFromBoards(@Param("ids") List<Long> ids);
+}
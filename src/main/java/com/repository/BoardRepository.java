@@ -1,14 +1,18 @@
 package com.repository;
 
 import com.entity.Board;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
@@ -28,4 +32,14 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     // 최신 게시글 N개 조회
     List<Board> findTop10ByOrderByCreatedAtDesc();
+
+    // 수정/삭제용 단건 조회 (보관 이동 중인 게시글이면 이동이 커밋될 때까지 기다린 뒤 없는 것으로 조회된다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Board b WHERE b.id = :id")
+    Optional<Board> findByIdForUpdate(@Param("id") Long id);
+
+    // 보관 테이블로 옮길 게시글 id (오래된 순, 옮기는 동안 수정/삭제되지 않도록 잠금)
+    @Query(value = "SELECT id FROM boards WHERE created_at < :cutoff ORDER BY created_at LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
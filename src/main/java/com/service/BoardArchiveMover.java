@@ -0,0 +1,107 @@
+package com.service;
+
+import com.event.BoardChangedEvent;
+import com.event.BoardEventType;
+import com.repository.ArchivedBoardRepository;
+import com.repository.BoardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 오래된 게시글을 boards(hot) 에서 boards_archive(cold) 로 옮기는 작업
+// boards 에는 최근 게시글만 남겨 최신 조회/앞쪽 페이지의 인덱스와 버퍼 풀 사용량을 데이터 총량과 무관하게 유지한다.
+@Component
+public class BoardArchiveMover {
+
+    private final BoardRepository boardRepository;
+    private final ArchivedBoardRepository archivedBoardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int batchSize;
+
+    // 깊은 페이지의 전체 개수 계산용 (매번 COUNT(*) 하지 않도록 보관)
+    private final AtomicLong archivedCount = new AtomicLong(-1);
+
+    public BoardArchiveMover(BoardRepository boardRepository,
+                             ArchivedBoardRepository archivedBoardRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${board.tiering.enabled:false}") boolean enabled,
+                             @Value("${board.tiering.max-age:30d}") Duration maxAge,
+                             @Value("${board.tiering.batch-size:1000}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.archivedBoardRepository = archivedBoardRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${board.tiering.interval:PT1M}")
+    public void archiveExpired() {
+        if (!enabled) {
+            return;
+        }
+        archiveOlderThan(LocalDateTime.now().minus(maxAge));
+    }
+
+    // cutoff 이전에 작성된 게시글을 batchSize 개씩 나눠 옮긴다 (배치마다 트랜잭션)
+    public int archiveOlderThan(LocalDateTime cutoff) {
+        int moved = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (count == null || count == 0) {
+                break;
+            }
+            moved += count;
+            // 커밋된 배치만큼 바로 더해, 이동이 길어져도 findAll 의 전체 개수가 옮겨진 게시글을 빠뜨리지 않게 한다
+            archivedCount.updateAndGet(archived -> archived < 0 ? archived : archived + count);
+            if (count < batchSize) {
+                break;
+            }
+        }
+        refreshArchivedCount();
+        return moved;
+    }
+
+    public long getArchivedCount() {
+        long count = archivedCount.get();
+        if (count < 0) {
+            count = refreshArchivedCount();
+        }
+        return count;
+    }
+
+    // 보관된 게시글 삭제가 커밋된 뒤에만 개수를 줄인다 (롤백되면 그대로)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardEventType.DELETED && event.isArchived()) {
+            archivedCount.updateAndGet(count -> count > 0 ? count - 1 : count);
+        }
+    }
+
+    private long refreshArchivedCount() {
+        long count = archivedBoardRepository.count();
+        archivedCount.set(count);
+        return count;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = boardRepository.findIdsCreatedBefore(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedBoardRepository.copyFromBoards(ids);
+        boardRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,121 @@
+package com.service;
+
+import com.dto.BoardResponseDto;
+import com.dto.CoalescingStatsDto;
+import com.event.BoardChangedEvent;
+import com.event.BoardEventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 동일한 조회 요청 합치기 (single-flight)
+// 같은 키로 동시에 들어온 요청은 먼저 들어온 요청(leader)의 DB 조회 하나를 공유한다.
+// 결과를 캐시하지는 않으며, 조회가 끝나면 키는 바로 제거된다.
+// 게시글 변경이 커밋되면 관련 키를 미리 제거해, 커밋 이후 요청이 커밋 전에 시작된 조회에 합류해 이전 내용을 받지 않게 한다.
+@Component
+public class BoardReadCoalescer {
+
+    private final BoardService boardService;
+    private final long waitTimeoutMs;
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong leaderCalls = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+    private final AtomicLong timedOutWaits = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+
+    public BoardReadCoalescer(BoardService boardService,
+                              @Value("${board.coalescing.wait-timeout-ms:1000}") long waitTimeoutMs) {
+        this.boardService = boardService;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    private record Key(String method, List<?> args) {
+    }
+
+    // 게시글 단건 조회
+    public BoardResponseDto findById(Long id) {
+        return execute(new Key("findById", List.of(id)), () -> boardService.findById(id));
+    }
+
+    // 전체 게시글 조회 (페이징)
+    public Page<BoardResponseDto> findAll(int page, int size) {
+        return execute(new Key("findAll", List.of(page, size)), () -> boardService.findAll(page, size));
+    }
+
+    // 최신 게시글 10개 조회
+    public List<BoardResponseDto> findLatest() {
+        return execute(new Key("findLatest", List.of()), boardService::findLatest);
+    }
+
+    // 커밋 전에 시작된 조회는 그 조회를 기다리던 요청에만 결과를 주고, 이후 요청은 새 조회를 시작한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() != BoardEventType.CREATED) {
+            inFlight.remove(new Key("findById", List.of(event.getBoardId())));
+        }
+        // 목록 조회는 어떤 변경이든 결과가 달라질 수 있다
+        inFlight.keySet().removeIf(key -> !key.method().equals("findById"));
+    }
+
+    public CoalescingStatsDto getStats() {
+        return new CoalescingStatsDto(leaderCalls.get(), coalescedCalls.get(), timedOutWaits.get(),
+                failedCalls.get(), inFlight.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(Key key, Supplier<T> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing == null) {
+            leaderCalls.incrementAndGet();
+            try {
+                T result = loader.get();
+                created.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                failedCalls.incrementAndGet();
+                created.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, created);
+            }
+        }
+
+        coalescedCalls.incrementAndGet();
+        try {
+            return (T) existing.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // DB 가 느려서 기다리는 것이므로 직접 조회하지 않고 바로 실패시킨다 (503 으로 응답)
+            timedOutWaits.incrementAndGet();
+            throw new CoalescedReadTimeoutException(waitTimeoutMs);
+        } catch (ExecutionException e) {
+            // leader 의 예외를 대기하던 요청에도 그대로 전달
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
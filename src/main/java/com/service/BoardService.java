@@ -2,96 +2,160 @@ package com.service;
 
 import com.dto.BoardRequestDto;
 import com.dto.BoardResponseDto;
+import com.entity.ArchivedBoard;
 import com.entity.Board;
+import com.event.BoardChangedEvent;
+import com.event.BoardEventType;
+import com.repository.ArchivedBoardRepository;
 import com.repository.BoardRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+// 게시글은 최근 게시글(boards)과 보관 게시글(boards_archive)로 나뉜다 (BoardArchiveMover 참고)
+// 조회는 기본적으로 boards 만 사용하고, 단건 조회/수정/삭제와 깊은 페이지, includeArchive 검색만 보관 테이블까지 조회한다.
+// 수정/삭제는 행을 잠그고 읽어, 보관 이동 중인 게시글이면 이동이 끝난 뒤 boards_archive 에서 찾는다.
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final ArchivedBoardRepository archivedBoardRepository;
+    private final BoardArchiveMover boardArchiveMover;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 게시글 생성
     @Transactional
     public BoardResponseDto create(BoardRequestDto requestDto) {
         Board board = requestDto.toEntity();
         Board savedBoard = boardRepository.save(board);
-        return new BoardResponseDto(savedBoard);
+        BoardResponseDto responseDto = new BoardResponseDto(savedBoard);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardEventType.CREATED, responseDto.getId(),
+                responseDto.getAuthor(), responseDto));
+        return responseDto;
     }
 
     // 게시글 단건 조회
     public BoardResponseDto findById(Long id) {
-        Board board = boardRepository.findById(id)
+        return boardRepository.findById(id)
+                .map(BoardResponseDto::new)
+                .or(() -> archivedBoardRepository.findById(id).map(BoardResponseDto::new))
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id));
-        return new BoardResponseDto(board);
     }
 
     // 전체 게시글 조회 (페이징)
     public Page<BoardResponseDto> findAll(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return boardRepository.findAllByOrderByCreatedAtDesc(pageable)
+        Page<BoardResponseDto> hotPage = boardRepository.findAllByOrderByCreatedAtDesc(pageable)
                 .map(BoardResponseDto::new);
+        long archivedCount = boardArchiveMover.getArchivedCount();
+        if (archivedCount == 0) {
+            return hotPage;
+        }
+
+        long total = hotPage.getTotalElements() + archivedCount;
+        if (hotPage.getNumberOfElements() == size) {
+            return new PageImpl<>(hotPage.getContent(), pageable, total);
+        }
+
+        // boards 가 모자라는 만큼 보관 게시글로 이어서 채운다 (보관 게시글은 모두 boards 보다 오래되었다)
+        List<BoardResponseDto> content = new ArrayList<>(hotPage.getContent());
+        long archiveOffset = Math.max(0, pageable.getOffset() - hotPage.getTotalElements());
+        archivedBoardRepository.findLatestWithOffset(archiveOffset, size - content.size())
+                .forEach(board -> content.add(new BoardResponseDto(board)));
+        return new PageImpl<>(content, pageable, total);
     }
 
     // 전체 게시글 조회 (리스트)
     public List<BoardResponseDto> findAll() {
-        return boardRepository.findAll(Sort.by("createdAt").descending())
-                .stream()
-                .map(BoardResponseDto::new)
-                .collect(Collectors.toList());
+        return findAll(false);
+    }
+
+    public List<BoardResponseDto> findAll(boolean includeArchive) {
+        Sort sort = Sort.by("createdAt").descending();
+        return merge(boardRepository.findAll(sort),
+                includeArchive ? archivedBoardRepository.findAll(sort) : List.of());
     }
 
     // 게시글 수정
     @Transactional
     public BoardResponseDto update(Long id, BoardRequestDto requestDto) {
-        Board board = boardRepository.findById(id)
+        // 잠금 없이 읽으면 보관 이동과 겹쳤을 때 이미 옮겨진 행을 수정하려다 실패하므로 행을 잠그고 읽는다
+        BoardResponseDto responseDto = boardRepository.findByIdForUpdate(id)
+                .map(board -> {
+                    board.update(requestDto.getTitle(), requestDto.getContent());
+                    return new BoardResponseDto(board);
+                })
+                .or(() -> archivedBoardRepository.findByIdForUpdate(id).map(board -> {
+                    board.update(requestDto.getTitle(), requestDto.getContent());
+                    return new BoardResponseDto(board);
+                }))
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id));
-        
-        board.update(requestDto.getTitle(), requestDto.getContent());
-        return new BoardResponseDto(board);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardEventType.UPDATED, responseDto.getId(),
+                responseDto.getAuthor(), responseDto));
+        return responseDto;
     }
 
     // 게시글 삭제
     @Transactional
     public void delete(Long id) {
-        Board board = boardRepository.findById(id)
+        // update 와 같은 이유로 행을 잠그고 읽는다
+        Board board = boardRepository.findByIdForUpdate(id).orElse(null);
+        if (board != null) {
+            boardRepository.delete(board);
+            eventPublisher.publishEvent(new BoardChangedEvent(BoardEventType.DELETED, board.getId(),
+                    board.getAuthor(), null));
+            return;
+        }
+
+        ArchivedBoard archivedBoard = archivedBoardRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id));
-        boardRepository.delete(board);
+        archivedBoardRepository.delete(archivedBoard);
+        // 보관 게시글 수는 커밋 후 BoardArchiveMover 가 이 이벤트를 받아 줄인다
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardEventType.DELETED, archivedBoard.getId(),
+                archivedBoard.getAuthor(), null, true));
     }
 
     // 제목으로 검색
     public List<BoardResponseDto> findByTitle(String title) {
-        return boardRepository.findByTitleContaining(title)
-                .stream()
-                .map(BoardResponseDto::new)
-                .collect(Collectors.toList());
+        return findByTitle(title, false);
+    }
+
+    public List<BoardResponseDto> findByTitle(String title, boolean includeArchive) {
+        return merge(boardRepository.findByTitleContaining(title),
+                includeArchive ? archivedBoardRepository.findByTitleContaining(title) : List.of());
     }
 
     // 작성자로 검색
     public List<BoardResponseDto> findByAuthor(String author) {
-        return boardRepository.findByAuthor(author)
-                .stream()
-                .map(BoardResponseDto::new)
-                .collect(Collectors.toList());
+        return findByAuthor(author, false);
+    }
+
+    public List<BoardResponseDto> findByAuthor(String author, boolean includeArchive) {
+        return merge(boardRepository.findByAuthor(author),
+                includeArchive ? archivedBoardRepository.findByAuthor(author) : List.of());
     }
 
     // 키워드로 검색 (제목 또는 내용)
     public List<BoardResponseDto> searchByKeyword(String keyword) {
-        return boardRepository.findByTitleOrContentContaining(keyword)
-                .stream()
-                .map(BoardResponseDto::new)
-                .collect(Collectors.toList());
+        return searchByKeyword(keyword, false);
+    }
+
+    public List<BoardResponseDto> searchByKeyword(String keyword, boolean includeArchive) {
+        return merge(boardRepository.findByTitleOrContentContaining(keyword),
+                includeArchive ? archivedBoardRepository.findByTitleOrContentContaining(keyword) : List.of());
     }
 
     // 최신 게시글 10개 조회
@@ -101,4 +165,12 @@ public class BoardService {
                 .map(BoardResponseDto::new)
                 .collect(Collectors.toList());
     }
+
+    // 최근 게시글 뒤에 보관 게시글을 이어 붙인다
+    private List<BoardResponseDto> merge(List<Board> boards, List<ArchivedBoard> archivedBoards) {
+        return Stream.concat(
+                        boards.stream().map(BoardResponseDto::new),
+                        archivedBoards.stream().map(BoardResponseDto::new))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,9 @@
+package com.service;
+
+// 같은 조회를 기다리다 board.coalescing.wait-timeout-ms 를 넘긴 경우
+public class CoalescedReadTimeoutException extends RuntimeException {
+
+    public CoalescedReadTimeoutException(long waitTimeoutMs) {
+        super("조회 대기 시간(" + waitTimeoutMs + "ms)을 초과했습니다.");
+    }
+}
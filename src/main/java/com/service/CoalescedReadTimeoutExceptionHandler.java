@@ -0,0 +1,27 @@
+package com.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 같은 조회를 기다리다 시간을 넘긴 요청은 503 + Retry-After 로 돌려보낸다 (잠시 후 재시도하면 새 조회를 시작한다)
+@RestControllerAdvice
+public class CoalescedReadTimeoutExceptionHandler {
+
+    private final String retryAfterSeconds;
+
+    public CoalescedReadTimeoutExceptionHandler(
+            @Value("${board.coalescing.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+    }
+
+    @ExceptionHandler(CoalescedReadTimeoutException.class)
+    public ResponseEntity<String> handleCoalescedReadTimeout(CoalescedReadTimeoutException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .body(e.getMessage());
+    }
+}
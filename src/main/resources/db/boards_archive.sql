@@ -0,0 +1,13 @@
+-- 오래된 게시글 보관 테이블 (BoardArchiveMover)
+-- ddl-auto: validate 가 ArchivedBoard 엔티티를 검증하기 전에 spring.sql.init 으로 실행된다
+CREATE TABLE IF NOT EXISTS boards_archive (
+    id         BIGINT       NOT NULL,
+    title      VARCHAR(200) NOT NULL,
+    content    TEXT         NOT NULL,
+    author     VARCHAR(50)  NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    KEY idx_boards_archive_created_at (created_at),
+    KEY idx_boards_archive_author (author)
+);
@@ -0,0 +1,16 @@
+-- boards(created_at) 인덱스 (없을 때만 생성)
+-- BoardArchiveMover 의 보관 대상 조회(... ORDER BY created_at LIMIT ... FOR UPDATE)가 인덱스 없이 boards 전체를 스캔하면
+-- REPEATABLE READ 에서 스캔한 모든 행과 마지막 행 뒤 간격까지 잠가, 배치마다 게시글 생성/수정/삭제가 모두 막힌다.
+-- MySQL 에는 CREATE INDEX IF NOT EXISTS 가 없으므로 information_schema 로 확인한 뒤 실행한다
+-- (created_at 으로 시작하는 인덱스가 이미 있으면 만들지 않는다, boards 가 없으면 스키마 검증이 알려 준다)
+SET @create_boards_created_at_index = IF(
+    EXISTS (SELECT 1 FROM information_schema.tables
+            WHERE table_schema = DATABASE() AND table_name = 'boards')
+        AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                        WHERE table_schema = DATABASE() AND table_name = 'boards'
+                          AND column_name = 'created_at' AND seq_in_index = 1),
+    'CREATE INDEX idx_boards_created_at ON boards (created_at)',
+    'DO 0');
+PREPARE create_boards_created_at_index FROM @create_boards_created_at_index;
+EXECUTE create_boards_created_at_index;
+DEALLOCATE PREPARE create_boards_created_at_index;
@@ -0,0 +1,80 @@
+package com.sosimple;
+
+import com.limiter.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long TARGET_LATENCY = TimeUnit.MILLISECONDS.toNanos(300);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(800);
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 바로 거절된다")
+    void rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 2, 1, 10, TARGET_LATENCY);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getStats().getRejected()).isEqualTo(1);
+
+        limiter.release(FAST);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("한도까지 차 있고 응답 시간이 늘지 않으면 한도를 늘린다")
+    void growsWhenSaturatedAndFast() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 10, 1, 100, TARGET_LATENCY);
+
+        for (int round = 0; round < 5; round++) {
+            saturateAndRelease(limiter, FAST);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 목표치를 넘으면 한도를 줄인다")
+    void shrinksWhenLatencyExceedsTarget() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("search", 20, 2, 100, TARGET_LATENCY);
+        saturateAndRelease(limiter, FAST);
+        int before = limiter.getLimit();
+
+        for (int round = 0; round < 5; round++) {
+            saturateAndRelease(limiter, SLOW);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(before);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않으면 한도를 늘리지 않는다")
+    void doesNotGrowWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", 10, 1, 100, TARGET_LATENCY);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST + i);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    private void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos);
+        }
+    }
+}
@@ -1,108 +1,74 @@
 package com.sosimple;
 
-import com.dto.BoardRequestDto;
-import com.service.BoardService;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.ActiveProfiles;
+import org.springframework.jdbc.core.JdbcTemplate;
 
-import java.util.Random;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
-@SpringBootTest
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// boards, boards_archive 를 비우고 다시 적재하므로 기본 테스트에서 제외 (./gradlew datasetTest)
+// LOAD DATA LOCAL INFILE 은 이 테스트의 커넥션에서만 허용한다
+@Tag("dataset")
+@SpringBootTest(properties = "spring.datasource.hikari.data-source-properties.allowLoadLocalInfile=true")
 class BoardDataInsertTest {
 
-    @Autowired
-    private BoardService boardService;
+    // ./gradlew datasetTest -Ddataset.profile=MILLION -Ddataset.seed=42 처럼 바꿔서 실행
+    private static final DatasetProfile PROFILE =
+            DatasetProfile.valueOf(System.getProperty("dataset.profile", DatasetProfile.STANDARD.name()));
+    private static final long SEED = Long.getLong("dataset.seed", 42L);
+    private static final int THREAD_COUNT = 10;
+    private static final int BATCH_ROWS = 1_000;
 
-    private final ExecutorService executorService = Executors.newFixedThreadPool(10);
-    private final Random random = new Random();
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @Test
-    @DisplayName("멀티스레드로 80_000개 게시글 데이터 생성")
+    @DisplayName("멀티스레드 multi-row INSERT 로 프로파일 데이터셋 생성")
     void insertBoardDataWithMultiThread() throws InterruptedException {
-        int totalCount = 80_000;
-        CountDownLatch latch = new CountDownLatch(totalCount);
-
-        long startTime = System.currentTimeMillis();
+        BoardDatasetGenerator generator = new BoardDatasetGenerator(jdbcTemplate);
+        generator.clear();
+        int totalCount = PROFILE.getRowCount();
 
-        for (int i = 0; i < totalCount; i++) {
-            final int index = i;
-            executorService.submit(() -> {
-                try {
-                    BoardRequestDto request = generateRandomBoardRequest(index);
-                    boardService.create(request);
+        System.out.println("프로파일: " + PROFILE + ", 시드: " + SEED + ", 게시글 수: " + totalCount);
 
-                    if (index % 100 == 0) {
-                        System.out.println("진행률: " + index + "/" + totalCount);
-                    }
-                } catch (Exception e) {
-                    System.err.println("데이터 생성 실패 - index: " + index + ", error: " + e.getMessage());
-                } finally {
-                    latch.countDown();
-                }
-            });
-        }
-
-        latch.await();
-        executorService.shutdown();
-
-        long endTime = System.currentTimeMillis();
-        long executionTime = endTime - startTime;
+        long startTime = System.currentTimeMillis();
+        generator.insert(PROFILE, SEED, THREAD_COUNT, BATCH_ROWS);
+        long executionTime = System.currentTimeMillis() - startTime;
 
         System.out.println("=== 데이터 생성 완료 ===");
         System.out.println("총 처리 시간: " + executionTime + "ms");
         System.out.println("평균 처리 시간: " + (executionTime / (double) totalCount) + "ms per insert");
     }
 
-    private BoardRequestDto generateRandomBoardRequest(int index) {
-        String[] titlePrefixes = {"테스트", "성능", "부하", "벤치마크", "샘플", "더미", "데이터", "검증"};
-        String[] contentWords = {
-            "MySQL", "메모리", "성능", "테스트", "데이터베이스", "최적화", "인덱스", "쿼리",
-            "트랜잭션", "커넥션", "풀링", "캐시", "백엔드", "API", "서버", "개발"
-        };
-
-        // 랜덤 제목 생성
-        String title = titlePrefixes[random.nextInt(titlePrefixes.length)] +
-                      " 게시글 " + (index + 1) + " - " +
-                      System.currentTimeMillis();
-
-        // 랜덤 내용 생성 (50-200 단어)
-        StringBuilder content = new StringBuilder();
-        int wordCount = 50 + random.nextInt(151); // 50~200개 단어
-
-        for (int i = 0; i < wordCount; i++) {
-            content.append(contentWords[random.nextInt(contentWords.length)]);
-            if (i < wordCount - 1) {
-                content.append(" ");
-            }
-
-            // 가끔 문장 끝에 마침표 추가
-            if (random.nextInt(10) == 0) {
-                content.append(". ");
-            }
-        }
-
-        // 작성자도 랜덤하게
-        String author = "user" + random.nextInt(100);
-
-        BoardRequestDto request = new BoardRequestDto();
-        request.setTitle(title);
-        request.setContent(content.toString());
-        request.setAuthor(author);
-
-        return request;
-    }
-
-    @AfterEach
-    void cleanup() {
-        if (!executorService.isShutdown()) {
-            executorService.shutdown();
+    @Test
+    @DisplayName("LOAD DATA LOCAL INFILE 로 프로파일 데이터셋 생성")
+    void loadBoardDataFromFile() throws Exception {
+        assumeTrue(Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT @@GLOBAL.local_infile = 1", Boolean.class)),
+                "MySQL 서버의 local_infile 이 꺼져 있습니다 (SET GLOBAL local_infile = 1)");
+        BoardDatasetGenerator generator = new BoardDatasetGenerator(jdbcTemplate);
+        generator.clear();
+        Path file = Files.createTempFile("boards-" + PROFILE.name().toLowerCase() + "-" + SEED, ".tsv");
+
+        try {
+            long startTime = System.currentTimeMillis();
+            generator.writeFile(PROFILE, SEED, file);
+            long writeTime = System.currentTimeMillis() - startTime;
+
+            startTime = System.currentTimeMillis();
+            generator.loadFile(file);
+            long loadTime = System.currentTimeMillis() - startTime;
+
+            System.out.println("=== 파일 적재 완료 ===");
+            System.out.println("파일 생성 시간: " + writeTime + "ms");
+            System.out.println("적재 시간: " + loadTime + "ms");
+        } finally {
+            Files.deleteIfExists(file);
         }
     }
 }
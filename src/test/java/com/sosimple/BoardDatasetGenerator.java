@@ -0,0 +1,215 @@
+package com.sosimple;
+
+import com.dto.BoardRequestDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 시드 기반 결정적 게시글 데이터 생성기
+// 각 행은 (seed, index) 만으로 만들어지므로 스레드 수나 배치 크기와 관계없이 같은 시드는 항상 같은 데이터셋을 만든다.
+// id 와 created_at 도 index 에서 계산해 명시적으로 넣는다.
+public class BoardDatasetGenerator {
+
+    public static final LocalDateTime DEFAULT_ANCHOR = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final String[] TITLE_PREFIXES = {"테스트", "성능", "부하", "벤치마크", "샘플", "더미", "데이터", "검증"};
+    private static final String[] CONTENT_WORDS = {
+            "MySQL", "메모리", "성능", "테스트", "데이터베이스", "최적화", "인덱스", "쿼리",
+            "트랜잭션", "커넥션", "풀링", "캐시", "백엔드", "API", "서버", "개발", "Spring", "Boot",
+            "JPA", "Hibernate", "Docker", "벤치마크", "부하", "스트레스", "TPS", "QPS"
+    };
+    private static final String INSERT_PREFIX =
+            "INSERT INTO boards (id, title, content, author, created_at, updated_at) VALUES ";
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    // 프로파일별 작성자 Zipf 누적분포 (한 번만 계산)
+    private static final Map<DatasetProfile, double[]> ZIPF_CDF = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    // 가장 최근 게시글의 created_at (나머지는 spanDays 만큼 과거로 분포)
+    private final LocalDateTime anchor;
+
+    public BoardDatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_ANCHOR);
+    }
+
+    public BoardDatasetGenerator(JdbcTemplate jdbcTemplate, LocalDateTime anchor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.anchor = anchor;
+    }
+
+    public record Row(long id, String title, String content, String author, LocalDateTime createdAt) {
+
+        public BoardRequestDto toRequestDto() {
+            BoardRequestDto request = new BoardRequestDto();
+            request.setTitle(title);
+            request.setContent(content);
+            request.setAuthor(author);
+            return request;
+        }
+    }
+
+    // index 번째 행 생성 (0부터 시작)
+    public Row row(DatasetProfile profile, long seed, int index) {
+        SplittableRandom random = new SplittableRandom(mix64(seed + 0x9E3779B97F4A7C15L * (index + 1L)));
+
+        String title = TITLE_PREFIXES[random.nextInt(TITLE_PREFIXES.length)] + " 게시글 " + (index + 1);
+
+        int wordCount = wordCount(profile, random);
+        StringBuilder content = new StringBuilder(wordCount * 8);
+        for (int i = 0; i < wordCount; i++) {
+            content.append(CONTENT_WORDS[random.nextInt(CONTENT_WORDS.length)]);
+            if (i < wordCount - 1) {
+                content.append(' ');
+            }
+            // 가끔 문장 끝에 마침표 추가
+            if (random.nextInt(10) == 0) {
+                content.append(". ");
+            }
+        }
+
+        String author = "user" + authorIndex(profile, random);
+
+        return new Row(index + 1L, title, content.toString(), author, createdAt(profile, index));
+    }
+
+    // 같은 id 로 다시 적재할 수 있도록 기존 데이터 삭제 (보관 테이블은 애플리케이션 시작 시 db/boards_archive.sql 로 생성됨)
+    public void clear() {
+        jdbcTemplate.execute("TRUNCATE TABLE boards");
+        jdbcTemplate.execute("TRUNCATE TABLE boards_archive");
+    }
+
+    // 여러 스레드에서 batchRows 개씩 multi-row INSERT 로 적재
+    public int insert(DatasetProfile profile, long seed, int threads, int batchRows) throws InterruptedException {
+        return insert(profile, seed, 0, profile.getRowCount(), threads, batchRows);
+    }
+
+    // [fromIndex, toIndex) 범위만 적재 (데이터를 나눠서 늘려 가며 측정할 때)
+    public int insert(DatasetProfile profile, long seed, int fromIndex, int toIndex, int threads, int batchRows)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = fromIndex; from < toIndex; from += batchRows) {
+                int start = from;
+                int end = Math.min(from + batchRows, toIndex);
+                futures.add(executor.submit(() -> insertRange(profile, seed, start, end)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("데이터셋 적재 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return toIndex - fromIndex;
+    }
+
+    // LOAD DATA INFILE 용 TSV 파일 생성
+    public void writeFile(DatasetProfile profile, long seed, Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < profile.getRowCount(); i++) {
+                Row row = row(profile, seed, i);
+                String createdAt = FILE_TIME_FORMAT.format(row.createdAt());
+                writer.write(row.id() + "\t" + escape(row.title()) + "\t" + escape(row.content()) + "\t"
+                        + escape(row.author()) + "\t" + createdAt + "\t" + createdAt + "\n");
+            }
+        }
+    }
+
+    // writeFile 로 만든 파일을 직접 적재 (JDBC URL 에 allowLoadLocalInfile=true, 서버에 local_infile=ON 필요)
+    public void loadFile(Path path) {
+        String file = path.toAbsolutePath().toString().replace('\\', '/').replace("'", "\\'");
+        jdbcTemplate.execute("LOAD DATA LOCAL INFILE '" + file + "' INTO TABLE boards CHARACTER SET utf8mb4 "
+                + "(id, title, content, author, created_at, updated_at)");
+    }
+
+    private void insertRange(DatasetProfile profile, long seed, int start, int end) {
+        int rows = end - start;
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * 20).append(INSERT_PREFIX);
+        Object[] args = new Object[rows * 6];
+        for (int i = 0; i < rows; i++) {
+            Row row = row(profile, seed, start + i);
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?, ?, ?)");
+            int offset = i * 6;
+            args[offset] = row.id();
+            args[offset + 1] = row.title();
+            args[offset + 2] = row.content();
+            args[offset + 3] = row.author();
+            args[offset + 4] = createdAt;
+            args[offset + 5] = createdAt;
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private int wordCount(DatasetProfile profile, SplittableRandom random) {
+        int range = profile.getMaxWords() - profile.getMinWords();
+        double u = random.nextDouble();
+        if (profile.getLengthDistribution() == DatasetProfile.LengthDistribution.LONG_TAIL) {
+            u = u * u * u;
+        }
+        return profile.getMinWords() + (int) Math.round(u * range);
+    }
+
+    private int authorIndex(DatasetProfile profile, SplittableRandom random) {
+        if (profile.getAuthorSkew() <= 0) {
+            return random.nextInt(profile.getAuthorCount());
+        }
+        double[] cdf = zipfCdf(profile);
+        int found = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(found >= 0 ? found : -found - 1, cdf.length - 1);
+    }
+
+    // 시간 순서는 id 순서와 같다 (index 가 클수록 최신)
+    private LocalDateTime createdAt(DatasetProfile profile, int index) {
+        long spanSeconds = profile.getSpanDays() * 86_400L;
+        long offset = spanSeconds * (profile.getRowCount() - 1L - index) / profile.getRowCount();
+        return anchor.minusSeconds(offset);
+    }
+
+    private static double[] zipfCdf(DatasetProfile profile) {
+        return ZIPF_CDF.computeIfAbsent(profile, p -> {
+            double[] cdf = new double[p.getAuthorCount()];
+            double sum = 0;
+            for (int k = 0; k < cdf.length; k++) {
+                sum += 1.0 / Math.pow(k + 1, p.getAuthorSkew());
+                cdf[k] = sum;
+            }
+            for (int k = 0; k < cdf.length; k++) {
+                cdf[k] /= sum;
+            }
+            return cdf;
+        });
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+}
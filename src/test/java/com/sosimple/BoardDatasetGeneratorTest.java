@@ -0,0 +1,87 @@
+package com.sosimple;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardDatasetGeneratorTest {
+
+    private final BoardDatasetGenerator generator = new BoardDatasetGenerator(null);
+
+    // 아래 고정값이 바뀌면 같은 시드로 만든 데이터셋이 이전 실행/버전과 달라진 것이다 (벤치마크 결과를 비교할 수 없게 됨)
+    @Test
+    @DisplayName("같은 시드는 실행이나 버전이 달라도 항상 같은 행을 만든다")
+    void sameSeedProducesSameRows() {
+        assertRow(generator.row(DatasetProfile.MILLION, 42L, 0),
+                1L, "샘플 게시글 1", "user262", 1_234, LocalDateTime.of(2024, 1, 2, 0, 0, 32));
+        assertRow(generator.row(DatasetProfile.MILLION, 42L, 54_321),
+                54_322L, "더미 게시글 54322", "user3547", 1_144, LocalDateTime.of(2024, 1, 21, 19, 51, 39));
+        assertRow(generator.row(DatasetProfile.STANDARD, 42L, 7),
+                8L, "샘플 게시글 8", "user32", 953, LocalDateTime.of(2024, 10, 3, 0, 12, 58));
+        assertRow(generator.row(DatasetProfile.MILLION_HOT_AUTHORS, 7L, 123),
+                124L, "벤치마크 게시글 124", "user8", 196, LocalDateTime.of(2024, 1, 2, 1, 5, 11));
+    }
+
+    @Test
+    @DisplayName("MILLION 시드 42 의 앞 1000개 행은 항상 같은 해시를 가진다")
+    void firstRowsHashIsPinned() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        for (int i = 0; i < 1_000; i++) {
+            BoardDatasetGenerator.Row row = generator.row(DatasetProfile.MILLION, 42L, i);
+            String line = row.id() + "\t" + row.title() + "\t" + row.content() + "\t" + row.author() + "\t"
+                    + row.createdAt() + "\n";
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(HexFormat.of().formatHex(digest.digest()))
+                .isEqualTo("df8d6744f5349afb894582f84a892b9509e7217a374549043ac6f6b9d4a56a94");
+    }
+
+    @Test
+    @DisplayName("다른 시드는 다른 내용을 만든다")
+    void differentSeedProducesDifferentRows() {
+        assertThat(generator.row(DatasetProfile.STANDARD, 1L, 10).content())
+                .isNotEqualTo(generator.row(DatasetProfile.STANDARD, 2L, 10).content());
+    }
+
+    @Test
+    @DisplayName("id 와 created_at 은 index 순서를 따른다")
+    void idAndCreatedAtFollowIndex() {
+        BoardDatasetGenerator.Row first = generator.row(DatasetProfile.SMOKE, 7L, 0);
+        BoardDatasetGenerator.Row last = generator.row(DatasetProfile.SMOKE, 7L, DatasetProfile.SMOKE.getRowCount() - 1);
+
+        assertThat(first.id()).isEqualTo(1L);
+        assertThat(last.id()).isEqualTo(DatasetProfile.SMOKE.getRowCount());
+        assertThat(first.createdAt()).isBefore(last.createdAt());
+        assertThat(last.createdAt()).isEqualTo(BoardDatasetGenerator.DEFAULT_ANCHOR);
+    }
+
+    @Test
+    @DisplayName("작성자 skew 가 있으면 상위 작성자에 게시글이 몰린다")
+    void skewedAuthorsConcentrateOnTopAuthors() {
+        int top = 0;
+        int samples = 10_000;
+        for (int i = 0; i < samples; i++) {
+            if (generator.row(DatasetProfile.MILLION_HOT_AUTHORS, 42L, i).author().equals("user0")) {
+                top++;
+            }
+        }
+        // 균등 분포라면 1/10_000 정도
+        assertThat(top).isGreaterThan(samples / 10);
+    }
+
+    private void assertRow(BoardDatasetGenerator.Row row, long id, String title, String author, int contentLength,
+                           LocalDateTime createdAt) {
+        assertThat(row.id()).isEqualTo(id);
+        assertThat(row.title()).isEqualTo(title);
+        assertThat(row.author()).isEqualTo(author);
+        assertThat(row.content()).hasSize(contentLength);
+        assertThat(row.createdAt()).isEqualTo(createdAt);
+    }
+}
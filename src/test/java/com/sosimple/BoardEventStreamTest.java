@@ -0,0 +1,299 @@
+package com.sosimple;
+
+import com.dto.BoardEventDto;
+import com.event.BoardChangedEvent;
+import com.event.BoardEventStream;
+import com.event.BoardEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardEventStreamTest {
+
+    private final List<BoardEventStream> streams = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        streams.forEach(BoardEventStream::shutdown);
+    }
+
+    @Test
+    @DisplayName("작성자 필터를 주면 해당 작성자의 이벤트만 받는다")
+    void filtersByAuthor() {
+        BoardEventStream stream = stream(64, 1_000, 60_000);
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(List.of("alice"), null);
+
+        publish(stream, "alice");
+        publish(stream, "bob");
+        publish(stream, "alice");
+
+        awaitUntil(() -> emitter.eventIds.size() == 2);
+        assertThat(emitter.eventIds).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 다음 이벤트부터 다시 받고 실시간 이벤트로 이어진다")
+    void resumesFromLastEventId() {
+        BoardEventStream stream = stream(64, 1_000, 60_000);
+        for (int i = 0; i < 5; i++) {
+            publish(stream, "alice");
+        }
+
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(null, 2L);
+        publish(stream, "alice");
+
+        awaitUntil(() -> emitter.eventIds.size() == 4);
+        assertThat(emitter.eventIds).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(emitter.names).doesNotContain("reset");
+    }
+
+    @Test
+    @DisplayName("보관 범위를 벗어난 Last-Event-ID 는 reset 을 보내고 새 이벤트부터 받는다")
+    void sendsResetWhenOutsideHistory() {
+        BoardEventStream stream = stream(64, 3, 60_000);
+        for (int i = 0; i < 10; i++) {
+            publish(stream, "alice");
+        }
+
+        RecordingEmitter tooOld = (RecordingEmitter) stream.subscribe(null, 2L);
+        RecordingEmitter fromFuture = (RecordingEmitter) stream.subscribe(null, 99L);
+        publish(stream, "alice");
+
+        awaitUntil(() -> tooOld.eventIds.size() == 1 && fromFuture.eventIds.size() == 1);
+        assertThat(tooOld.names).first().isEqualTo("reset");
+        assertThat(tooOld.eventIds).containsExactly(11L);
+        assertThat(fromFuture.names).first().isEqualTo("reset");
+        assertThat(fromFuture.eventIds).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘친 구독자만 끊기고 다른 구독자는 계속 받는다")
+    void dropsSubscriberWhenBufferOverflows() throws InterruptedException {
+        BoardEventStream stream = stream(2, 1_000, 60_000);
+        RecordingEmitter slow = (RecordingEmitter) stream.subscribe(null, null);
+        slow.block();
+        RecordingEmitter healthy = (RecordingEmitter) stream.subscribe(null, null);
+
+        publish(stream, "alice");
+        assertThat(slow.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        // 1 은 전송 중, 2~3 은 버퍼, 4 에서 넘친다 (healthy 의 버퍼는 넘치지 않도록 하나씩 받은 뒤 발행)
+        awaitUntil(() -> healthy.eventIds.size() == 1);
+        for (int i = 2; i <= 4; i++) {
+            publish(stream, "alice");
+            int received = i;
+            awaitUntil(() -> healthy.eventIds.size() == received);
+        }
+
+        awaitUntil(() -> stream.getSubscriberCount() == 1);
+        // 막힌 send 를 기다리지 않도록 emitter 는 전송 스레드가 풀려날 때 닫는다
+        assertThat(slow.completed).isFalse();
+
+        slow.unblock();
+        awaitUntil(() -> slow.completed);
+        publish(stream, "alice");
+        awaitUntil(() -> healthy.eventIds.size() == 5);
+        assertThat(healthy.eventIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(slow.eventIds).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘쳐 끊긴 구독자의 send 가 계속 막혀 있어도 watchdog 이 전송 스레드를 풀어 준다")
+    void releasesSenderOfOverflowedSubscriberStuckInSend() throws InterruptedException {
+        BoardEventStream stream = stream(2, 1_000, 500);
+        RecordingEmitter stuck = (RecordingEmitter) stream.subscribe(null, null);
+        stuck.block();
+
+        publish(stream, "alice");
+        assertThat(stuck.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            publish(stream, "alice");
+        }
+        awaitUntil(() -> stream.getSubscriberCount() == 0);
+
+        // unblock 하지 않는다: send timeout 이 지나면 watchdog 이 막힌 전송을 깨우고, 그 스레드가 emitter 를 닫는다
+        awaitUntil(() -> stuck.completed);
+        assertThat(stuck.interrupted).isTrue();
+    }
+
+    @Test
+    @DisplayName("전송 스레드와 대기열이 모두 차면 스레드를 늘리지 않고 그 구독자를 끊는다")
+    void dropsSubscriberWhenDispatcherIsFull() throws InterruptedException {
+        // 전송 스레드 1개, 대기열 1칸
+        BoardEventStream stream = stream(64, 1_000, 60_000, 1, 1);
+        RecordingEmitter busy = (RecordingEmitter) stream.subscribe(null, null);
+        busy.block();
+        publish(stream, "alice");
+        assertThat(busy.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        RecordingEmitter first = (RecordingEmitter) stream.subscribe(null, null);
+        RecordingEmitter second = (RecordingEmitter) stream.subscribe(null, null);
+        // busy 는 이미 전송 중이라 새 작업이 없고, first/second 중 하나는 대기열에 들어가고 하나는 거절된다
+        publish(stream, "alice");
+
+        awaitUntil(() -> first.completed || second.completed);
+        assertThat(stream.getSubscriberCount()).isEqualTo(2);
+        RecordingEmitter rejected = first.completed ? first : second;
+        RecordingEmitter queued = rejected == first ? second : first;
+        assertThat(rejected.completed).isTrue();
+        assertThat(queued.completed).isFalse();
+
+        busy.unblock();
+        awaitUntil(() -> queued.eventIds.size() == 1 && busy.eventIds.size() == 2);
+        assertThat(queued.eventIds).containsExactly(2L);
+        assertThat(rejected.eventIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송이 send timeout 을 넘긴 구독자는 끊기고 다른 구독자 전송은 막히지 않는다")
+    void evictsSubscriberStuckInSend() throws InterruptedException {
+        BoardEventStream stream = stream(64, 1_000, 100);
+        RecordingEmitter stuck = (RecordingEmitter) stream.subscribe(null, null);
+        stuck.block();
+        RecordingEmitter healthy = (RecordingEmitter) stream.subscribe(null, null);
+
+        publish(stream, "alice");
+        assertThat(stuck.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        awaitUntil(() -> stuck.completed);
+        assertThat(stream.getSubscriberCount()).isEqualTo(1);
+
+        publish(stream, "alice");
+        awaitUntil(() -> healthy.eventIds.size() == 2);
+        assertThat(healthy.eventIds).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발행해도 이벤트를 잃거나 순서가 바뀌지 않는다")
+    void concurrentPublishersKeepOrder() throws Exception {
+        int publishers = 8;
+        int perPublisher = 500;
+        int total = publishers * perPublisher;
+        BoardEventStream stream = stream(total, total, 60_000);
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(null, null);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(publishers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < publishers; p++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perPublisher; i++) {
+                        publish(stream, "alice");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        awaitUntil(() -> emitter.eventIds.size() == total);
+        assertThat(emitter.eventIds).containsExactlyElementsOf(LongStream.rangeClosed(1, total).boxed().toList());
+    }
+
+    private BoardEventStream stream(int bufferSize, int historySize, long sendTimeoutMs) {
+        return stream(bufferSize, historySize, sendTimeoutMs, 16, 4_096);
+    }
+
+    private BoardEventStream stream(int bufferSize, int historySize, long sendTimeoutMs, int dispatchThreads,
+                                    int dispatchQueueSize) {
+        BoardEventStream stream = new BoardEventStream(bufferSize, historySize, 60_000, sendTimeoutMs,
+                dispatchThreads, dispatchQueueSize) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMs) {
+                return new RecordingEmitter();
+            }
+        };
+        streams.add(stream);
+        return stream;
+    }
+
+    private void publish(BoardEventStream stream, String author) {
+        stream.onBoardChanged(new BoardChangedEvent(BoardEventType.CREATED, 1L, author, null));
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("5초 안에 조건을 만족하지 못했습니다.");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    // 실제 응답에 쓰지 않고 보낸 이벤트를 기록하는 emitter (block 하면 느린 소켓처럼 send 가 멈춘다)
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern EVENT_NAME = Pattern.compile("event:(\\w+)");
+
+        private final List<Long> eventIds = new CopyOnWriteArrayList<>();
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+        private volatile boolean completed;
+        private volatile boolean interrupted;
+
+        private void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        private void unblock() {
+            gate.countDown();
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            CountDownLatch currentGate = gate;
+            if (currentGate != null) {
+                try {
+                    currentGate.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    throw new InterruptedIOException("전송 중 인터럽트");
+                }
+            }
+            for (DataWithMediaType part : builder.build()) {
+                Object data = part.getData();
+                if (data instanceof BoardEventDto event) {
+                    eventIds.add(event.getEventId());
+                } else if (data instanceof String text) {
+                    Matcher matcher = EVENT_NAME.matcher(text);
+                    if (matcher.find()) {
+                        names.add(matcher.group(1));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.sosimple;
+
+import com.dto.BoardResponseDto;
+import com.event.BoardChangedEvent;
+import com.event.BoardEventType;
+import com.service.BoardReadCoalescer;
+import com.service.BoardService;
+import com.service.CoalescedReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardReadCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final BoardService boardService = mock(BoardService.class);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void cleanup() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 id 로 동시에 들어온 조회는 DB 조회 하나를 공유한다")
+    void concurrentSameKeyCallsShareOneLoad() throws Exception {
+        BoardReadCoalescer coalescer = new BoardReadCoalescer(boardService, 5_000);
+        BoardResponseDto response = mock(BoardResponseDto.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardService.findById(1L)).thenAnswer(invocation -> {
+            release.await();
+            return response;
+        });
+
+        List<Future<BoardResponseDto>> futures = submitCallers(() -> coalescer.findById(1L));
+        awaitWaiters(coalescer);
+        release.countDown();
+
+        for (Future<BoardResponseDto> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        }
+        verify(boardService, times(1)).findById(1L);
+        assertThat(coalescer.getStats().getLeaderCalls()).isEqualTo(1);
+        assertThat(coalescer.getStats().getCoalescedCalls()).isEqualTo(CALLERS - 1);
+        assertThat(coalescer.getStats().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader 의 예외는 기다리던 모든 요청에 전달된다")
+    void failurePropagatesToAllWaiters() throws Exception {
+        BoardReadCoalescer coalescer = new BoardReadCoalescer(boardService, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardService.findById(2L)).thenAnswer(invocation -> {
+            release.await();
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: 2");
+        });
+
+        List<Future<BoardResponseDto>> futures = submitCallers(() -> coalescer.findById(2L));
+        awaitWaiters(coalescer);
+        release.countDown();
+
+        for (Future<BoardResponseDto> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        verify(boardService, times(1)).findById(2L);
+        assertThat(coalescer.getStats().getFailedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 다시 조회하지 않고 바로 실패한다")
+    void waiterFailsFastAfterTimeout() throws Exception {
+        BoardReadCoalescer coalescer = new BoardReadCoalescer(boardService, 50);
+        BoardResponseDto response = mock(BoardResponseDto.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardService.findById(3L)).thenAnswer(invocation -> {
+            release.await();
+            return response;
+        });
+
+        Future<BoardResponseDto> leader = executorService.submit(() -> coalescer.findById(3L));
+        while (coalescer.getStats().getInFlight() == 0) {
+            Thread.sleep(1);
+        }
+
+        assertThatThrownBy(() -> coalescer.findById(3L)).isInstanceOf(CoalescedReadTimeoutException.class);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        verify(boardService, times(1)).findById(3L);
+        assertThat(coalescer.getStats().getTimedOutWaits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수정이 커밋된 뒤 들어온 조회는 커밋 전에 시작된 조회에 합류하지 않는다")
+    void committedUpdateStartsFreshLoad() throws Exception {
+        BoardReadCoalescer coalescer = new BoardReadCoalescer(boardService, 5_000);
+        BoardResponseDto before = mock(BoardResponseDto.class);
+        BoardResponseDto after = mock(BoardResponseDto.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardService.findById(4L))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return before;
+                })
+                .thenReturn(after);
+
+        Future<BoardResponseDto> stale = executorService.submit(() -> coalescer.findById(4L));
+        while (coalescer.getStats().getInFlight() == 0) {
+            Thread.sleep(1);
+        }
+        coalescer.onBoardChanged(new BoardChangedEvent(BoardEventType.UPDATED, 4L, "작성자", null));
+
+        assertThat(coalescer.findById(4L)).isSameAs(after);
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isSameAs(before);
+        verify(boardService, times(2)).findById(4L);
+        assertThat(coalescer.getStats().getCoalescedCalls()).isZero();
+        assertThat(coalescer.getStats().getInFlight()).isZero();
+    }
+
+    private List<Future<BoardResponseDto>> submitCallers(Callable<BoardResponseDto> call) {
+        List<Future<BoardResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executorService.submit(call));
+        }
+        return futures;
+    }
+
+    private void awaitWaiters(BoardReadCoalescer coalescer) throws InterruptedException {
+        while (coalescer.getStats().getLeaderCalls() + coalescer.getStats().getCoalescedCalls() < CALLERS) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.sosimple;
+
+import com.dto.BoardRequestDto;
+import com.dto.BoardResponseDto;
+import com.entity.ArchivedBoard;
+import com.entity.Board;
+import com.event.BoardChangedEvent;
+import com.event.BoardEventType;
+import com.repository.ArchivedBoardRepository;
+import com.repository.BoardRepository;
+import com.service.BoardArchiveMover;
+import com.service.BoardService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardServiceTieringTest {
+
+    private static final long ARCHIVED_COUNT = 100;
+    private static final long HOT_TOTAL = 25;
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final ArchivedBoardRepository archivedBoardRepository = mock(ArchivedBoardRepository.class);
+    private final BoardArchiveMover boardArchiveMover = mock(BoardArchiveMover.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final BoardService boardService =
+            new BoardService(boardRepository, archivedBoardRepository, boardArchiveMover, eventPublisher);
+
+    @Test
+    @DisplayName("hot/보관 경계에 걸친 페이지는 hot 게시글 뒤에 보관 게시글을 이어 붙인다")
+    void pageSpanningBoundaryContinuesIntoArchive() {
+        when(boardArchiveMover.getArchivedCount()).thenReturn(ARCHIVED_COUNT);
+        stubHotPage(1, 20, hotBoards(21, 25));
+        when(archivedBoardRepository.findLatestWithOffset(0L, 15)).thenReturn(archivedBoards(1, 15));
+
+        Page<BoardResponseDto> page = boardService.findAll(1, 20);
+
+        assertThat(page.getContent()).extracting(BoardResponseDto::getTitle)
+                .containsExactlyElementsOf(Stream.concat(titles("hot", 21, 25).stream(),
+                        titles("archived", 1, 15).stream()).toList());
+        assertThat(page.getTotalElements()).isEqualTo(HOT_TOTAL + ARCHIVED_COUNT);
+        verify(archivedBoardRepository).findLatestWithOffset(0L, 15);
+    }
+
+    @Test
+    @DisplayName("hot 게시글을 모두 지난 페이지는 보관 게시글만 offset 에 맞춰 조회한다")
+    void pageEntirelyInArchiveUsesShiftedOffset() {
+        when(boardArchiveMover.getArchivedCount()).thenReturn(ARCHIVED_COUNT);
+        stubHotPage(3, 20, List.of());
+        when(archivedBoardRepository.findLatestWithOffset(35L, 20)).thenReturn(archivedBoards(36, 55));
+
+        Page<BoardResponseDto> page = boardService.findAll(3, 20);
+
+        assertThat(page.getContent()).extracting(BoardResponseDto::getTitle)
+                .containsExactlyElementsOf(titles("archived", 36, 55));
+        assertThat(page.getTotalElements()).isEqualTo(HOT_TOTAL + ARCHIVED_COUNT);
+        assertThat(page.getNumber()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("hot 게시글로 가득 찬 페이지는 보관 테이블을 조회하지 않지만 전체 개수는 합친다")
+    void fullHotPageDoesNotQueryArchive() {
+        when(boardArchiveMover.getArchivedCount()).thenReturn(ARCHIVED_COUNT);
+        stubHotPage(0, 20, hotBoards(1, 20));
+
+        Page<BoardResponseDto> page = boardService.findAll(0, 20);
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(HOT_TOTAL + ARCHIVED_COUNT);
+        verify(archivedBoardRepository, never()).findLatestWithOffset(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("boards 에 없는 게시글은 보관 테이블에서 조회한다")
+    void findByIdFallsThroughToArchive() {
+        ArchivedBoard archivedBoard = archivedBoard(7L, "archived 7");
+        when(boardRepository.findById(7L)).thenReturn(Optional.empty());
+        when(archivedBoardRepository.findById(7L)).thenReturn(Optional.of(archivedBoard));
+
+        assertThat(boardService.findById(7L).getTitle()).isEqualTo("archived 7");
+    }
+
+    @Test
+    @DisplayName("보관 게시글도 수정할 수 있다")
+    void updateArchivedBoard() {
+        ArchivedBoard archivedBoard = archivedBoard(7L, "archived 7");
+        when(boardRepository.findByIdForUpdate(7L)).thenReturn(Optional.empty());
+        when(archivedBoardRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(archivedBoard));
+        BoardRequestDto request = new BoardRequestDto();
+        request.setTitle("수정된 제목");
+        request.setContent("수정된 내용");
+
+        BoardResponseDto response = boardService.update(7L, request);
+
+        verify(archivedBoard).update("수정된 제목", "수정된 내용");
+        assertThat(response.getId()).isEqualTo(7L);
+        BoardChangedEvent event = publishedEvent();
+        assertThat(event.getType()).isEqualTo(BoardEventType.UPDATED);
+    }
+
+    @Test
+    @DisplayName("보관 게시글 삭제는 보관 테이블에서 지우고 archived 삭제 이벤트를 발행한다")
+    void deleteArchivedBoard() {
+        ArchivedBoard archivedBoard = archivedBoard(7L, "archived 7");
+        when(boardRepository.findByIdForUpdate(7L)).thenReturn(Optional.empty());
+        when(archivedBoardRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(archivedBoard));
+
+        boardService.delete(7L);
+
+        verify(archivedBoardRepository).delete(archivedBoard);
+        BoardChangedEvent event = publishedEvent();
+        assertThat(event.getType()).isEqualTo(BoardEventType.DELETED);
+        assertThat(event.getBoardId()).isEqualTo(7L);
+        assertThat(event.isArchived()).isTrue();
+    }
+
+    @Test
+    @DisplayName("boards 게시글 삭제는 행을 잠그고 읽으며 보관 테이블을 건드리지 않는다")
+    void deleteHotBoardLocksRow() {
+        Board board = hotBoards(1, 1).get(0);
+        when(boardRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(board));
+
+        boardService.delete(1L);
+
+        verify(boardRepository).delete(board);
+        verify(boardRepository, never()).findById(1L);
+        verify(archivedBoardRepository, never()).findByIdForUpdate(1L);
+        assertThat(publishedEvent().isArchived()).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 게시글 삭제가 커밋되면 보관 게시글 수가 줄어든다")
+    void archivedCountDecrementsOnCommittedArchivedDelete() {
+        when(archivedBoardRepository.count()).thenReturn(10L);
+        BoardArchiveMover mover = new BoardArchiveMover(boardRepository, archivedBoardRepository, null,
+                false, Duration.ofDays(30), 1_000);
+        assertThat(mover.getArchivedCount()).isEqualTo(10);
+
+        mover.onBoardChanged(new BoardChangedEvent(BoardEventType.DELETED, 7L, "a", null, true));
+        assertThat(mover.getArchivedCount()).isEqualTo(9);
+
+        // hot 게시글 삭제는 보관 게시글 수와 무관하다
+        mover.onBoardChanged(new BoardChangedEvent(BoardEventType.DELETED, 8L, "a", null));
+        assertThat(mover.getArchivedCount()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("보관 이동 중에도 커밋된 배치만큼 보관 게시글 수가 바로 늘어난다")
+    void archivedCountGrowsPerCommittedBatch() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        BoardArchiveMover mover = new BoardArchiveMover(boardRepository, archivedBoardRepository, transactionTemplate,
+                true, Duration.ofDays(30), 2);
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(archivedBoardRepository.count()).thenReturn(10L, 13L);
+        when(boardRepository.findIdsCreatedBefore(cutoff, 2)).thenReturn(List.of(1L, 2L), List.of(3L));
+        List<Long> countsDuringMove = new ArrayList<>();
+        when(archivedBoardRepository.copyFromBoards(any())).thenAnswer(invocation -> {
+            countsDuringMove.add(mover.getArchivedCount());
+            return invocation.<List<Long>>getArgument(0).size();
+        });
+
+        assertThat(mover.getArchivedCount()).isEqualTo(10);
+        assertThat(mover.archiveOlderThan(cutoff)).isEqualTo(3);
+
+        // 두 번째 배치를 옮기는 동안 첫 배치 2개는 이미 더해져 있다
+        assertThat(countsDuringMove).containsExactly(10L, 12L);
+        assertThat(mover.getArchivedCount()).isEqualTo(13);
+    }
+
+    private void stubHotPage(int page, int size, List<Board> content) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        when(boardRepository.findAllByOrderByCreatedAtDesc(pageable))
+                .thenReturn(new PageImpl<>(content, pageable, HOT_TOTAL));
+    }
+
+    private BoardChangedEvent publishedEvent() {
+        ArgumentCaptor<BoardChangedEvent> captor = ArgumentCaptor.forClass(BoardChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+
+    private List<Board> hotBoards(int from, int to) {
+        return IntStream.rangeClosed(from, to)
+                .mapToObj(i -> Board.builder().title("hot " + i).content("내용").author("작성자").build())
+                .toList();
+    }
+
+    private List<ArchivedBoard> archivedBoards(int from, int to) {
+        return IntStream.rangeClosed(from, to)
+                .mapToObj(i -> archivedBoard((long) i, "archived " + i))
+                .toList();
+    }
+
+    private ArchivedBoard archivedBoard(Long id, String title) {
+        ArchivedBoard archivedBoard = mock(ArchivedBoard.class);
+        when(archivedBoard.getId()).thenReturn(id);
+        when(archivedBoard.getTitle()).thenReturn(title);
+        when(archivedBoard.getAuthor()).thenReturn("작성자");
+        return archivedBoard;
+    }
+
+    private List<String> titles(String prefix, int from, int to) {
+        return IntStream.rangeClosed(from, to).mapToObj(i -> prefix + " " + i).toList();
+    }
+}
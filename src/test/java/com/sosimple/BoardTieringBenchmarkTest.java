@@ -0,0 +1,124 @@
+package com.sosimple;
+
+import com.service.BoardArchiveMover;
+import com.service.BoardService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+// 스케줄러가 끼어들지 않도록 보관 이동은 테스트에서 직접 호출한다
+// 100만 건을 두 번 적재하므로 기본 테스트에서 제외 (./gradlew datasetTest)
+@Tag("dataset")
+@SpringBootTest(properties = "board.tiering.enabled=false")
+class BoardTieringBenchmarkTest {
+
+    private static final DatasetProfile PROFILE = DatasetProfile.MILLION;
+    private static final long SEED = 42L;
+    private static final int STEPS = 4;
+    private static final int HOT_DAYS = 30;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+    private static final int HOT_PAGES = 6;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardArchiveMover boardArchiveMover;
+
+    @Test
+    @DisplayName("🧊 hot/cold 분리 - 전체 데이터가 늘어도 최신 조회 응답 시간 유지")
+    void hotPathLatencyStaysFlatAsDataGrows() throws InterruptedException {
+        // 최근 HOT_DAYS 일 게시글이 hot 으로 남도록 현재 시각을 기준으로 생성
+        LocalDateTime anchor = LocalDateTime.now().withNano(0);
+        LocalDateTime cutoff = anchor.minusDays(HOT_DAYS);
+        BoardDatasetGenerator generator = new BoardDatasetGenerator(jdbcTemplate, anchor);
+        int step = PROFILE.getRowCount() / STEPS;
+
+        System.out.println("\n🧊 === hot/cold 분리 벤치마크 시작 ===");
+        System.out.println("📊 프로파일: " + PROFILE + ", 시드: " + SEED + ", hot 기간: " + HOT_DAYS + "일");
+        System.out.println("🔍 측정: 최신 10개 + 페이지 0~" + (HOT_PAGES - 1) + " (size " + PAGE_SIZE + "), "
+                + ITERATIONS + "회");
+
+        double[][] untiered = new double[STEPS][];
+        double[][] tiered = new double[STEPS][];
+
+        // 1차: 보관 없이 boards 하나에 계속 쌓는다
+        generator.clear();
+        for (int k = 0; k < STEPS; k++) {
+            insertStep(generator, k, step);
+            untiered[k] = measureHotPath();
+        }
+
+        // 2차: 같은 데이터를 쌓으면서 단계마다 오래된 게시글을 보관 테이블로 옮긴다
+        generator.clear();
+        for (int k = 0; k < STEPS; k++) {
+            insertStep(generator, k, step);
+            long startTime = System.currentTimeMillis();
+            int moved = boardArchiveMover.archiveOlderThan(cutoff);
+            System.out.printf("📦 %,d개 보관 이동: %,dms%n", moved, System.currentTimeMillis() - startTime);
+            tiered[k] = measureHotPath();
+        }
+
+        System.out.println("\n📈 전체 게시글 수별 hot path 응답 시간 (평균 / p95, ms)");
+        System.out.println("전체 게시글 | 단일 테이블 | hot/cold 분리");
+        for (int k = 0; k < STEPS; k++) {
+            System.out.printf("%,11d | %5.2f / %5.2f | %5.2f / %5.2f%n", (k + 1) * step,
+                    untiered[k][0], untiered[k][1], tiered[k][0], tiered[k][1]);
+        }
+
+        // 보관 게시글 단건 조회 (boards 에 없으면 boards_archive 로 넘어간다)
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            boardService.findById(1L + i);
+        }
+        System.out.printf("%n🗄️ 보관 게시글 단건 조회 평균: %.2fms%n",
+                (System.nanoTime() - startTime) / 1_000_000.0 / ITERATIONS);
+
+        System.out.println("\n✅ === hot/cold 분리 벤치마크 완료 ===");
+    }
+
+    // 최신 게시글부터 채우고 단계마다 더 오래된 게시글을 더한다 (최근 게시글 수는 일정)
+    private void insertStep(BoardDatasetGenerator generator, int k, int step) throws InterruptedException {
+        int to = PROFILE.getRowCount() - k * step;
+        long startTime = System.currentTimeMillis();
+        generator.insert(PROFILE, SEED, to - step, to, 10, 1_000);
+        System.out.printf("📝 %,d개 적재 (누적 %,d개): %,dms%n", step, (k + 1) * step,
+                System.currentTimeMillis() - startTime);
+    }
+
+    // {평균, p95} (ms)
+    private double[] measureHotPath() {
+        for (int i = 0; i < WARMUP; i++) {
+            runHotPath(i);
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startTime = System.nanoTime();
+            runHotPath(i);
+            samples[i] = System.nanoTime() - startTime;
+        }
+        Arrays.sort(samples);
+        double average = Arrays.stream(samples).average().orElse(0) / 1_000_000.0;
+        double p95 = samples[(int) Math.ceil(ITERATIONS * 0.95) - 1] / 1_000_000.0;
+        return new double[]{average, p95};
+    }
+
+    private void runHotPath(int i) {
+        if (i % 2 == 0) {
+            boardService.findLatest();
+        } else {
+            boardService.findAll((i / 2) % HOT_PAGES, PAGE_SIZE);
+        }
+    }
+}
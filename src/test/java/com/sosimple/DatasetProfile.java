@@ -0,0 +1,35 @@
+package com.sosimple;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 벤치마크용 데이터셋 프로파일
+// rowCount: 생성할 게시글 수
+// minWords/maxWords + lengthDistribution: 본문 길이 분포
+// authorCount + authorSkew: 작성자 수와 Zipf 지수 (0이면 균등 분포)
+// spanDays: created_at 이 분포하는 기간 (일)
+@Getter
+@RequiredArgsConstructor
+public enum DatasetProfile {
+
+    SMOKE(1_000, 20, 60, LengthDistribution.UNIFORM, 100, 0.0, 7),
+    STANDARD(80_000, 50, 200, LengthDistribution.UNIFORM, 100, 0.0, 90),
+    MILLION(1_000_000, 50, 300, LengthDistribution.LONG_TAIL, 10_000, 1.1, 365),
+    MILLION_HOT_AUTHORS(1_000_000, 20, 100, LengthDistribution.UNIFORM, 10_000, 1.5, 365),
+    FIVE_MILLION(5_000_000, 50, 300, LengthDistribution.LONG_TAIL, 50_000, 1.1, 1_095);
+
+    public enum LengthDistribution {
+        // min~max 사이 균등
+        UNIFORM,
+        // 대부분 짧고 일부만 긴 본문
+        LONG_TAIL
+    }
+
+    private final int rowCount;
+    private final int minWords;
+    private final int maxWords;
+    private final LengthDistribution lengthDistribution;
+    private final int authorCount;
+    private final double authorSkew;
+    private final int spanDays;
+}
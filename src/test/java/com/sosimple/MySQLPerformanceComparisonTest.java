@@ -3,11 +3,13 @@ package com.sosimple;
 import com.dto.BoardRequestDto;
 import com.dto.BoardResponseDto;
 import com.service.BoardService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 import java.util.Random;
@@ -19,10 +21,24 @@ import java.util.concurrent.atomic.AtomicInteger;
 @SpringBootTest
 class MySQLPerformanceComparisonTest {
 
+    private static final DatasetProfile PROFILE = DatasetProfile.STANDARD;
+    private static final long SEED = 42L;
+
     @Autowired
     private BoardService boardService;
 
-    private final Random random = new Random();
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BoardDatasetGenerator generator;
+
+    // 조회 대상 페이지도 시드로 고정해 실행 간 비교가 가능하도록 한다
+    private final Random random = new Random(SEED);
+
+    @BeforeEach
+    void setUp() {
+        generator = new BoardDatasetGenerator(jdbcTemplate);
+    }
 
     @Test
     @DisplayName("📝 INSERT 성능 테스트 - 80,000개 데이터 생성")
@@ -241,42 +257,6 @@ class MySQLPerformanceComparisonTest {
     }
 
     private BoardRequestDto generateRandomBoardRequest(int index) {
-        String[] titlePrefixes = {"성능테스트", "부하테스트", "벤치마크", "MySQL", "데이터베이스", "최적화", "인덱싱", "쿼리"};
-        String[] contentWords = {
-            "MySQL", "메모리", "성능", "테스트", "데이터베이스", "최적화", "인덱스", "쿼리",
-            "트랜잭션", "커넥션", "풀링", "캐시", "백엔드", "API", "서버", "개발", "Spring", "Boot",
-            "JPA", "Hibernate", "Docker", "벤치마크", "부하", "스트레스", "TPS", "QPS"
-        };
-        
-        // 랜덤 제목 생성
-        String title = titlePrefixes[random.nextInt(titlePrefixes.length)] + 
-                      " " + (index + 1) + " - " + 
-                      System.currentTimeMillis() + "-" + random.nextInt(1000);
-        
-        // 랜덤 내용 생성 (100-300 단어)
-        StringBuilder content = new StringBuilder();
-        int wordCount = 100 + random.nextInt(201);
-        
-        for (int i = 0; i < wordCount; i++) {
-            content.append(contentWords[random.nextInt(contentWords.length)]);
-            if (i < wordCount - 1) {
-                content.append(" ");
-            }
-            
-            // 문장 구분
-            if (random.nextInt(15) == 0) {
-                content.append(". ");
-            }
-        }
-        
-        // 작성자 랜덤 생성
-        String author = "testuser" + random.nextInt(500);
-        
-        BoardRequestDto request = new BoardRequestDto();
-        request.setTitle(title);
-        request.setContent(content.toString());
-        request.setAuthor(author);
-        
-        return request;
+        return generator.row(PROFILE, SEED, index).toRequestDto();
     }
 }